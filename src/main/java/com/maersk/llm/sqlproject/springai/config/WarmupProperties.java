@@ -0,0 +1,49 @@
+package com.maersk.llm.sqlproject.springai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the startup warm-up phase, bound from {@code sqlproject.warmup.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sqlproject.warmup")
+public class WarmupProperties {
+
+    /**
+     * Whether the warm-up phase runs before the application reports itself ready.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of database connections to open and hold together, capped at the pool size.
+     */
+    private int connections = 2;
+
+    /**
+     * SQL statements executed directly against the database, without calling the chat model.
+     */
+    private List<String> sql = new ArrayList<>();
+
+    /**
+     * Whether the golden questions are replayed against the live chat model.
+     * Each question is a paid OpenAI call, so this is off by default.
+     */
+    private boolean liveQuestions = false;
+
+    /**
+     * Golden questions replayed through the full generate-and-execute pipeline.
+     */
+    private List<String> questions = new ArrayList<>();
+
+    /**
+     * Maximum time spent replaying the golden questions before the warm-up gives up on them.
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+}
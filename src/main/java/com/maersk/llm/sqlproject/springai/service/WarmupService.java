@@ -0,0 +1,157 @@
+package com.maersk.llm.sqlproject.springai.service;
+
+import com.maersk.llm.sqlproject.springai.config.WarmupProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service class for warming up the application on startup.
+ * <p>
+ * Runs as an {@link ApplicationRunner}, so the readiness state stays
+ * {@code REFUSING_TRAFFIC} until every warm-up phase has completed.
+ */
+@Slf4j
+@Service
+public class WarmupService implements ApplicationRunner {
+
+    @Autowired
+    private WarmupProperties warmupProperties;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private AIService aiService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!warmupProperties.isEnabled()) {
+            log.info("Warm-up is disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        time("connections", this::openConnections);
+        time("sql", this::executeSql);
+        time("questions", this::replayQuestions);
+        long elapsed = System.nanoTime() - start;
+        timer("total").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up completed in {} ms", TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * Opens the configured number of connections one after another and holds them
+     * together, so the pool contains them before the first request arrives.
+     */
+    void openConnections() {
+        int count = warmupProperties.getConnections();
+        if (dataSource instanceof HikariDataSource hikariDataSource
+                && count > hikariDataSource.getMaximumPoolSize()) {
+            log.warn("Warm-up connections {} exceed the pool size, opening {} instead",
+                    count, hikariDataSource.getMaximumPoolSize());
+            count = hikariDataSource.getMaximumPoolSize();
+        }
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(5);
+            }
+            log.debug("Opened {} database connections", connections.size());
+        } catch (Exception e) {
+            log.warn("Error opening database connections during warm-up: {}", e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (Exception e) {
+                    log.warn("Error closing database connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes each configured SQL statement once to load Hibernate and the database pages.
+     */
+    void executeSql() {
+        for (String sql : warmupProperties.getSql()) {
+            try {
+                entityManager.createNativeQuery(sql).getResultList();
+            } catch (Exception e) {
+                log.warn("Warm-up SQL failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replays the golden questions through the generate-and-execute pipeline,
+     * giving up once the configured timeout has elapsed.
+     */
+    void replayQuestions() {
+        if (!warmupProperties.isLiveQuestions() || warmupProperties.getQuestions().isEmpty()) {
+            log.debug("Skipping replay of golden questions");
+            return;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "warmup-questions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<?> future = executor.submit(() -> {
+            for (String question : warmupProperties.getQuestions()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                try {
+                    aiService.generateSqlQuery(question);
+                } catch (Exception e) {
+                    log.warn("Warm-up question failed: {}", e.getMessage());
+                }
+            }
+        });
+        try {
+            future.get(warmupProperties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Replay of golden questions timed out after {}", warmupProperties.getTimeout());
+            future.cancel(true);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Error replaying golden questions: {}", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void time(String phase, Runnable runnable) {
+        timer(phase).record(runnable);
+    }
+
+    private Timer timer(String phase) {
+        return Timer.builder("sqlproject.warmup")
+                .description("Time taken by each startup warm-up phase")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+}
@@ -11,7 +11,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@SpringBootTest
+@SpringBootTest(properties = "sqlproject.warmup.enabled=false")
 public class AllTest {
 
     public static final String URL_QUERY="http://localhost:8086/api/v1/query";
@@ -3,7 +3,7 @@ package com.maersk.llm.sqlproject;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "sqlproject.warmup.enabled=false")
 class SqlprojectApplicationTests {
 
 	@Test
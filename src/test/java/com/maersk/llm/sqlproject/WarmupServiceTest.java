@@ -0,0 +1,150 @@
+package com.maersk.llm.sqlproject;
+
+import com.maersk.llm.sqlproject.springai.config.WarmupProperties;
+import com.maersk.llm.sqlproject.springai.service.AIService;
+import com.maersk.llm.sqlproject.springai.service.WarmupService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class WarmupServiceTest {
+
+    @Mock
+    private AIService aiService;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private WarmupProperties warmupProperties = new WarmupProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private WarmupService warmupService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void run_enabled_opensConnectionsAndReplaysQuestions() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery("SELECT COUNT(*) FROM orders")).thenReturn(query);
+        warmupProperties.setConnections(2);
+        warmupProperties.setSql(List.of("SELECT COUNT(*) FROM orders"));
+        warmupProperties.setLiveQuestions(true);
+        warmupProperties.setQuestions(List.of("How many orders have items from multiple sellers? [integer: count]"));
+
+        warmupService.run(null);
+
+        verify(dataSource, times(2)).getConnection();
+        verify(connection, times(2)).close();
+        verify(query, times(1)).getResultList();
+        verify(aiService, never()).executeSQLQuery(anyString());
+        verify(aiService).generateSqlQuery("How many orders have items from multiple sellers? [integer: count]");
+        assertEquals(1, timerCount("questions"));
+        assertEquals(1, timerCount("total"));
+    }
+
+    @Test
+    void run_liveQuestionsDisabled_skipsQuestions() {
+        warmupProperties.setQuestions(List.of("How many orders have items from multiple sellers? [integer: count]"));
+
+        warmupService.run(null);
+
+        verify(aiService, never()).generateSqlQuery(anyString());
+        assertEquals(1, timerCount("total"));
+    }
+
+    @Test
+    void run_disabled_skipsWarmup() throws SQLException {
+        warmupProperties.setEnabled(false);
+        warmupProperties.setLiveQuestions(true);
+        warmupProperties.setQuestions(List.of("How many orders have items from multiple sellers? [integer: count]"));
+
+        warmupService.run(null);
+
+        verify(dataSource, never()).getConnection();
+        verifyNoInteractions(aiService, entityManager);
+    }
+
+    @Test
+    void openConnections_moreThanPoolSize_capsAtPoolSize() throws SQLException {
+        HikariDataSource hikariDataSource = mock(HikariDataSource.class);
+        when(hikariDataSource.getMaximumPoolSize()).thenReturn(1);
+        when(hikariDataSource.getConnection()).thenReturn(mock(Connection.class));
+        warmupProperties.setConnections(3);
+        ReflectionTestUtils.setField(warmupService, "dataSource", hikariDataSource);
+
+        warmupService.run(null);
+
+        verify(hikariDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void run_failingPhases_recordsTimersAndRunsLaterPhases() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("Database unavailable"));
+        when(entityManager.createNativeQuery(anyString())).thenThrow(new RuntimeException("SQL error"));
+        when(aiService.generateSqlQuery(anyString())).thenThrow(new RuntimeException("API error"));
+        warmupProperties.setSql(List.of("SELECT COUNT(*) FROM orders"));
+        warmupProperties.setLiveQuestions(true);
+        warmupProperties.setQuestions(List.of("Which city has the highest average freight value per order? [string: city_name]"));
+
+        assertDoesNotThrow(() -> warmupService.run(null));
+
+        verify(entityManager).createNativeQuery("SELECT COUNT(*) FROM orders");
+        verify(aiService).generateSqlQuery("Which city has the highest average freight value per order? [string: city_name]");
+        assertEquals(1, timerCount("connections"));
+        assertEquals(1, timerCount("sql"));
+        assertEquals(1, timerCount("questions"));
+        assertEquals(1, timerCount("total"));
+    }
+
+    @Test
+    void run_slowQuestion_stopsAfterTimeout() {
+        when(aiService.generateSqlQuery(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+        warmupProperties.setConnections(0);
+        warmupProperties.setLiveQuestions(true);
+        warmupProperties.setTimeout(Duration.ofMillis(100));
+        warmupProperties.setQuestions(List.of("What's the most expensive product category based on average price? [string: category_name]"));
+
+        assertTimeout(Duration.ofSeconds(5), () -> warmupService.run(null));
+        assertEquals(1, timerCount("total"));
+    }
+
+    private long timerCount(String phase) {
+        return meterRegistry.find("sqlproject.warmup").tag("phase", phase).timer().count();
+    }
+}